@@ -29,6 +29,18 @@ public class Button implements Component {
         this.handler = handler;
     }
 
+    /**
+     * Creates a new button component using the interned instance of the given item stack
+     *
+     * @param itemStack The item stack to use as the icon
+     * @param handler   The handler which gets called when a player clicks on the button
+     * @return The created button component
+     * @see ItemStackInterner
+     */
+    public static Button interned(final ItemStack itemStack, final Consumer<InventoryClickEvent> handler) {
+        return new Button(ItemStackInterner.getDefault().intern(itemStack), handler);
+    }
+
     @Override
     public ItemStack buildItemStack() {
         return this.itemStack;
@@ -23,6 +23,17 @@ public class Item implements Component {
         this.itemStack = itemStack;
     }
 
+    /**
+     * Creates a new item component using the interned instance of the given item stack
+     *
+     * @param itemStack The item stack to use
+     * @return The created item component
+     * @see ItemStackInterner
+     */
+    public static Item interned(final ItemStack itemStack) {
+        return new Item(ItemStackInterner.getDefault().intern(itemStack));
+    }
+
     @Override
     public ItemStack buildItemStack() {
         return this.itemStack;
@@ -0,0 +1,101 @@
+package dev.pelkum.yamif.components;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Represents a registry deduplicating equal display item stacks across GUIs.
+ * Item stacks are considered equal if their material, amount and meta are equal.
+ * Entries are only held weakly, so item stacks no component references anymore get discarded.
+ * Interned item stacks are shared and therefore must not be modified.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ItemStackInterner {
+
+    // Define the default interner
+    private static final ItemStackInterner DEFAULT = new ItemStackInterner();
+
+    // Define the interned item stacks; every key references itself through its value
+    private final Map<ItemStack, WeakReference<ItemStack>> itemStacks;
+
+    // Define the interning statistics
+    private long requests;
+    private long hits;
+
+    /**
+     * Creates a new item stack interner
+     */
+    public ItemStackInterner() {
+        this.itemStacks = new WeakHashMap<>();
+    }
+
+    /**
+     * @return The interner shared across all GUIs
+     */
+    public static ItemStackInterner getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the canonical instance of an item stack, registering a copy of it if no equal item stack is interned yet
+     *
+     * @param itemStack The item stack to intern
+     * @return The canonical instance of the item stack
+     */
+    public synchronized ItemStack intern(final ItemStack itemStack) {
+        // Skip empty slots
+        if (itemStack == null) {
+            return null;
+        }
+
+        this.requests++;
+
+        // Return the interned item stack if it is still present
+        final WeakReference<ItemStack> reference = this.itemStacks.get(itemStack);
+        final ItemStack interned = reference == null ? null : reference.get();
+        if (interned != null) {
+            this.hits++;
+            return interned;
+        }
+
+        // Intern a copy to keep later modifications of the given item stack out of the registry
+        final ItemStack copy = itemStack.clone();
+        this.itemStacks.put(copy, new WeakReference<>(copy));
+        return copy;
+    }
+
+    /**
+     * @return The amount of item stacks currently interned
+     */
+    public synchronized int size() {
+        return this.itemStacks.size();
+    }
+
+    /**
+     * @return The amount of item stacks passed to {@link #intern(ItemStack)}
+     */
+    public synchronized long getRequests() {
+        return this.requests;
+    }
+
+    /**
+     * @return The amount of item stacks which got replaced by an already interned one
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return The share of interned item stacks which got deduplicated, in the interval [0, 1]
+     */
+    public synchronized double getDeduplicationRatio() {
+        return this.requests == 0 ? 0 : (double) this.hits / this.requests;
+    }
+
+}
@@ -2,6 +2,15 @@ package dev.pelkum.yamif.gui;
 
 import dev.pelkum.yamif.components.Component;
 import dev.pelkum.yamif.grid.SlotRange;
+import dev.pelkum.yamif.jfr.ComponentClickEvent;
+import dev.pelkum.yamif.jfr.ComponentRenderEvent;
+import dev.pelkum.yamif.jfr.GUIOpenEvent;
+import dev.pelkum.yamif.jfr.InteractionEvent;
+import dev.pelkum.yamif.scheduling.BukkitGUIExecutor;
+import dev.pelkum.yamif.scheduling.GUIExecutor;
+import dev.pelkum.yamif.scheduling.RenderQueue;
+import dev.pelkum.yamif.scheduling.RenderScheduler;
+import dev.pelkum.yamif.scheduling.ScheduledTask;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -12,10 +21,22 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
@@ -28,10 +49,29 @@ import java.util.function.Consumer;
 public class GUI {
 
     // Define GUI-related variables
+    private final String title;
     private final Inventory inventory;
     private final Map<Integer, Component> components;
     private final Map<Integer, Boolean> interactionPolicies;
 
+    // Define the viewers and the shared interaction listener
+    private final Set<UUID> viewers;
+    private InteractionListener interactionListener;
+
+    // Define the executor every scheduling point goes through, the key owning the inventory
+    // and the tasks waiting for an executor to be defined
+    private volatile GUIExecutor executor;
+    private volatile UUID owner;
+    private final Queue<Runnable> deferredTasks;
+    private boolean executorDefined;
+    private boolean ownerBound;
+
+    // Define the render queue, the slots waiting to be rendered by it
+    // and the slots whose render work got dropped after the last viewer left
+    private volatile RenderQueue renderQueue;
+    private final Set<Integer> pendingRenders;
+    private final Set<Integer> droppedRenders;
+
     // Define the inventory click, drag and close handlers
     private Consumer<InventoryClickEvent> onClickHandler;
     private Consumer<InventoryDragEvent> onDragHandler;
@@ -47,9 +87,16 @@ public class GUI {
      * @param rows  The number of rows of the GUI
      */
     public GUI(final String title, final int rows) {
-        this.inventory = Bukkit.createInventory(new GUIInventoryHolder(), rows * 9, title);
-        this.components = new HashMap<>();
-        this.interactionPolicies = new HashMap<>();
+        this.title = title;
+        final GUIInventoryHolder holder = new GUIInventoryHolder();
+        this.inventory = Bukkit.createInventory(holder, rows * 9, title);
+        this.owner = holder.getUUID();
+        this.deferredTasks = new ArrayDeque<>();
+        this.components = new ConcurrentHashMap<>();
+        this.interactionPolicies = new ConcurrentHashMap<>();
+        this.viewers = ConcurrentHashMap.newKeySet();
+        this.pendingRenders = ConcurrentHashMap.newKeySet();
+        this.droppedRenders = ConcurrentHashMap.newKeySet();
         this.shiftClickAllowed = false;
     }
 
@@ -64,7 +111,7 @@ public class GUI {
         range.getSlots().forEach(slot -> {
             final Component current = component.clone();
             this.components.put(slot, current);
-            this.inventory.setItem(slot, current.buildItemStack());
+            this.render(slot);
         });
     }
 
@@ -77,7 +124,7 @@ public class GUI {
         range.stripToInventorySize(this.inventory.getSize());
         range.getSlots().forEach(slot -> {
             this.components.remove(slot);
-            this.inventory.setItem(slot, null);
+            this.render(slot);
         });
     }
 
@@ -92,6 +139,198 @@ public class GUI {
         range.getSlots().forEach(slot -> this.interactionPolicies.put(slot, interactionAllowed));
     }
 
+    /**
+     * Re-renders the components in the given range; may be called from any thread
+     *
+     * @param range The range to re-render the components in
+     */
+    public void refresh(final SlotRange range) {
+        range.stripToInventorySize(this.inventory.getSize());
+        range.getSlots().forEach(this::render);
+    }
+
+    /**
+     * Defines the executor every scheduling point of the GUI goes through.
+     * The inventory of the GUI is owned by a single key of the executor and gets updated only on its thread:
+     * the key of the render scheduler if one is defined, otherwise the UUID of the first player the GUI gets opened to.
+     * Opening the GUI and cleaning up after closing it run on the thread of the respective player.
+     * On executors running different keys on different threads, a GUI may therefore only be viewed by players
+     * owned by the same thread as its key; sharing a GUI across such threads is not supported.
+     * If no executor got defined, the GUI uses a {@link BukkitGUIExecutor} of the plugin it gets opened with;
+     * inventory updates requested before that are deferred until the GUI has an executor.
+     * GUIs using a render scheduler always use the executor of the scheduler, so no other executor may be defined for them.
+     *
+     * @param executor The executor to use or null to fall back to the default one
+     */
+    public void setExecutor(final GUIExecutor executor) {
+        this.applyExecutor(executor, true);
+    }
+
+    /**
+     * Applies an executor and hands over the tasks which got deferred while no executor was defined
+     *
+     * @param executor The executor to apply
+     * @param explicit Whether or not the executor got defined explicitly using {@link #setExecutor(GUIExecutor)}
+     */
+    private void applyExecutor(final GUIExecutor executor, final boolean explicit) {
+        final List<Runnable> deferred;
+        synchronized (this) {
+            if (explicit) {
+                // Validate that the executor is not defined by a render scheduler
+                if (this.renderQueue != null && executor != this.executor) {
+                    throw new IllegalStateException("the executor of a GUI using a render scheduler is defined by the scheduler");
+                }
+
+                // Validate that the executor does not get reset while the GUI is in use
+                if (executor == null && !this.viewers.isEmpty()) {
+                    throw new IllegalStateException("the executor can not be reset while the GUI is opened");
+                }
+            }
+
+            this.executor = executor;
+            this.executorDefined = explicit && executor != null;
+            if (executor == null) {
+                return;
+            }
+
+            deferred = new ArrayList<>(this.deferredTasks);
+            this.deferredTasks.clear();
+        }
+
+        deferred.forEach(task -> executor.execute(this.owner, task));
+    }
+
+    /**
+     * Executes a task on the thread owning the inventory of the GUI, deferring it if no executor is defined yet
+     *
+     * @param task The task to execute
+     */
+    private void executeOwned(final Runnable task) {
+        final GUIExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+            if (executor == null) {
+                this.deferredTasks.add(task);
+                return;
+            }
+        }
+
+        executor.execute(this.owner, task);
+    }
+
+    /**
+     * Returns the executor of the GUI, falling back to a {@link BukkitGUIExecutor} of the given plugin
+     *
+     * @param plugin The plugin to create the fallback executor with
+     * @return The executor to use
+     */
+    private GUIExecutor resolveExecutor(final JavaPlugin plugin) {
+        synchronized (this) {
+            if (this.executor != null) {
+                return this.executor;
+            }
+        }
+
+        final GUIExecutor executor = new BukkitGUIExecutor(plugin);
+        this.applyExecutor(executor, false);
+        return executor;
+    }
+
+    /**
+     * Binds the ownership of the inventory to the given player if it is not bound yet and no render scheduler owns it
+     *
+     * @param player The player to bind the ownership to
+     */
+    private synchronized void bindOwner(final Player player) {
+        if (this.ownerBound || this.renderQueue != null) {
+            return;
+        }
+
+        this.owner = player.getUniqueId();
+        this.ownerBound = true;
+    }
+
+    /**
+     * Defines the render scheduler to defer the rendering of components to.
+     * Components set before the scheduler got defined get rendered without it.
+     * The scheduler starts processing the work automatically once it gets submitted.
+     * The GUI adopts the executor of the scheduler and gets owned by its key, so it has to be defined before the GUI gets opened
+     * and an executor defined using {@link #setExecutor(GUIExecutor)} has to be the one of the scheduler.
+     *
+     * @param renderScheduler The render scheduler to use or null to render components immediately
+     */
+    public void setRenderScheduler(final RenderScheduler renderScheduler) {
+        synchronized (this) {
+            // Validate that the inventory is not in use yet
+            if (!this.viewers.isEmpty()) {
+                throw new IllegalStateException("the render scheduler has to be defined before the GUI gets opened");
+            }
+
+            // Validate that the scheduler uses the executor defined for the GUI
+            if (renderScheduler != null && this.executorDefined && this.executor != renderScheduler.getExecutor()) {
+                throw new IllegalStateException("the render scheduler has to use the executor defined for the GUI");
+            }
+
+            if (renderScheduler == null) {
+                this.renderQueue = null;
+                return;
+            }
+
+            this.owner = renderScheduler.getOwner();
+            this.renderQueue = renderScheduler.createQueue();
+        }
+
+        this.applyExecutor(renderScheduler.getExecutor(), false);
+    }
+
+    /**
+     * Renders the component in the given slot on the thread owning the inventory,
+     * deferring the work to the render scheduler if one is defined
+     *
+     * @param slot The slot to render
+     */
+    private void render(final int slot) {
+        // Render the slot as soon as possible if no render scheduler is defined
+        final RenderQueue renderQueue = this.renderQueue;
+        if (renderQueue == null) {
+            this.executeOwned(() -> this.renderNow(slot));
+            return;
+        }
+
+        // Queue the slot if it is not queued already; the queued work always renders the latest component
+        if (this.pendingRenders.add(slot)) {
+            renderQueue.submit(() -> {
+                this.pendingRenders.remove(slot);
+                this.renderNow(slot);
+            });
+        }
+    }
+
+    /**
+     * Renders the component in the given slot immediately
+     *
+     * @param slot The slot to render
+     */
+    private void renderNow(final int slot) {
+        final Component component = this.components.get(slot);
+        if (component == null) {
+            this.inventory.setItem(slot, null);
+            return;
+        }
+
+        // Build the item stack while recording the time it takes
+        final ComponentRenderEvent recording = new ComponentRenderEvent(this.title, slot, component.getClass());
+        recording.begin();
+        final ItemStack itemStack;
+        try {
+            itemStack = component.buildItemStack();
+        } finally {
+            recording.commit();
+        }
+
+        this.inventory.setItem(slot, itemStack);
+    }
+
     /**
      * Registers the GUI click handler
      *
@@ -126,6 +365,13 @@ public class GUI {
         this.shiftClickAllowed = true;
     }
 
+    /**
+     * @return The UUIDs of the players currently viewing the GUI
+     */
+    public Set<UUID> getViewers() {
+        return Collections.unmodifiableSet(this.viewers);
+    }
+
     /**
      * Opens the GUI to a player
      *
@@ -133,17 +379,137 @@ public class GUI {
      * @param player The player to open the GUI for
      */
     public void open(final JavaPlugin plugin, final Player player) {
-        this.registerInteractionListener(plugin);
-        player.openInventory(this.inventory);
+        this.bindOwner(player);
+        this.resolveExecutor(plugin).execute(player, () -> {
+            final GUIOpenEvent recording = new GUIOpenEvent(this.title);
+            recording.begin();
+            try {
+                // Register the viewer only after the inventory got opened, as re-opening the GUI closes the previous view first
+                final InventoryView view = player.openInventory(this.inventory);
+                if (view != null) {
+                    this.addViewer(plugin, player.getUniqueId());
+                }
+            } finally {
+                recording.commit();
+            }
+        });
+    }
+
+    /**
+     * Opens the GUI to multiple players, spreading the open calls across ticks.
+     * All players share this GUI and its interaction listener; clicks can still be attributed to
+     * the individual viewer using {@link InventoryClickEvent#getWhoClicked()}.
+     * On executors running different players on different threads, all players have to be owned by the same thread
+     * (see {@link #setExecutor(GUIExecutor)}).
+     *
+     * @param plugin         The plugin to register the interaction listener with
+     * @param players        The players to open the GUI for
+     * @param playersPerTick The maximum amount of players to open the GUI for per tick
+     * @return The task delivering the GUI to the players
+     */
+    public ScheduledTask openAll(final JavaPlugin plugin, final Collection<? extends Player> players, final int playersPerTick) {
+        // Validate the per-tick budget
+        if (playersPerTick < 1) {
+            throw new IllegalArgumentException("playersPerTick has to be positive");
+        }
+
+        // Copy the unique player UUIDs to make the delivery independent of the given collection and of relogs
+        final Set<UUID> uuids = new LinkedHashSet<>();
+        players.forEach(player -> uuids.add(player.getUniqueId()));
+        final Queue<UUID> pending = new ArrayDeque<>(uuids);
+
+        final AtomicReference<ScheduledTask> delivery = new AtomicReference<>();
+        delivery.set(this.resolveExecutor(plugin).executeRepeating(() -> {
+            for (int i = 0; i < playersPerTick && !pending.isEmpty(); i++) {
+                final Player player = Bukkit.getPlayer(pending.poll());
+                if (player != null) {
+                    this.open(plugin, player);
+                }
+            }
+
+            // Stop the delivery once every player got served; if the task is not known yet, the next run stops it
+            final ScheduledTask task = delivery.get();
+            if (pending.isEmpty() && task != null) {
+                task.cancel();
+            }
+        }, 1));
+        return delivery.get();
     }
 
     /**
-     * Registers the interaction listener
+     * Adds a viewer and registers the interaction listener if it is not registered already
      *
      * @param plugin The plugin to register the event listener with
+     * @param uuid   The UUID of the viewer to add
      */
-    private void registerInteractionListener(final JavaPlugin plugin) {
-        plugin.getServer().getPluginManager().registerEvents(new InteractionListener(), plugin);
+    private synchronized void addViewer(final JavaPlugin plugin, final UUID uuid) {
+        if (this.interactionListener == null) {
+            this.interactionListener = new InteractionListener();
+            plugin.getServer().getPluginManager().registerEvents(this.interactionListener, plugin);
+        }
+
+        final boolean first = this.viewers.isEmpty();
+        this.viewers.add(uuid);
+        this.updateRenderVisibility();
+
+        // Queue the render work which got dropped while nobody was viewing the GUI again
+        if (first) {
+            this.restoreRenders();
+        }
+    }
+
+    /**
+     * Removes a viewer and unregisters the interaction listener if nobody is viewing the GUI anymore
+     *
+     * @param uuid The UUID of the viewer to remove
+     */
+    private synchronized void removeViewer(final UUID uuid) {
+        final boolean removed = this.viewers.remove(uuid);
+        this.updateRenderVisibility();
+
+        // Stop spending the shared render budget on a GUI nobody is viewing anymore
+        if (removed && this.viewers.isEmpty()) {
+            this.dropRenders();
+        }
+
+        if (this.viewers.isEmpty() && this.interactionListener != null) {
+            HandlerList.unregisterAll(this.interactionListener);
+            this.interactionListener = null;
+        }
+    }
+
+    /**
+     * Removes the queued render work, remembering the affected slots to render them once the GUI gets viewed again
+     */
+    private void dropRenders() {
+        final RenderQueue renderQueue = this.renderQueue;
+        if (renderQueue == null) {
+            return;
+        }
+
+        renderQueue.clear();
+        this.droppedRenders.addAll(this.pendingRenders);
+        this.pendingRenders.clear();
+    }
+
+    /**
+     * Queues the render work of the slots whose render work got dropped
+     */
+    private void restoreRenders() {
+        for (final Integer slot : this.droppedRenders) {
+            this.droppedRenders.remove(slot);
+            this.render(slot);
+        }
+    }
+
+    /**
+     * Marks the queued render work as visible if the GUI has viewers
+     */
+    private void updateRenderVisibility() {
+        final RenderQueue renderQueue = this.renderQueue;
+        if (renderQueue != null) {
+            renderQueue.setVisible(!this.viewers.isEmpty());
+        }
     }
 
     /**
@@ -181,19 +547,31 @@ public class GUI {
                 return;
             }
 
-            // Check if interaction is allowed in this slot
-            final boolean interactionAllowed = GUI.this.interactionPolicies.getOrDefault(event.getSlot(), false);
-            event.setCancelled(!interactionAllowed);
-
-            // Trigger the corresponding component
-            final Component component = GUI.this.components.get(event.getSlot());
-            if (component != null) {
-                component.onClick(event);
-            }
+            final InteractionEvent recording = new InteractionEvent(GUI.this.title, InteractionEvent.CLICK, event.getSlot());
+            recording.begin();
+            try {
+                // Check if interaction is allowed in this slot
+                final boolean interactionAllowed = GUI.this.interactionPolicies.getOrDefault(event.getSlot(), false);
+                event.setCancelled(!interactionAllowed);
+
+                // Trigger the corresponding component
+                final Component component = GUI.this.components.get(event.getSlot());
+                if (component != null) {
+                    final ComponentClickEvent componentRecording = new ComponentClickEvent(GUI.this.title, event.getSlot(), component.getClass());
+                    componentRecording.begin();
+                    try {
+                        component.onClick(event);
+                    } finally {
+                        componentRecording.commit();
+                    }
+                }
 
-            // Trigger the GUI click handler
-            if (GUI.this.onClickHandler != null) {
-                GUI.this.onClickHandler.accept(event);
+                // Trigger the GUI click handler
+                if (GUI.this.onClickHandler != null) {
+                    GUI.this.onClickHandler.accept(event);
+                }
+            } finally {
+                recording.commit();
             }
         }
 
@@ -209,13 +587,19 @@ public class GUI {
                 return;
             }
 
-            // Check if interaction is allowed in all slots
-            final boolean interactionAllowed = event.getRawSlots().stream().allMatch(slot -> GUI.this.interactionPolicies.getOrDefault(slot, false));
-            event.setCancelled(!interactionAllowed);
+            final InteractionEvent recording = new InteractionEvent(GUI.this.title, InteractionEvent.DRAG, -1);
+            recording.begin();
+            try {
+                // Check if interaction is allowed in all slots
+                final boolean interactionAllowed = event.getRawSlots().stream().allMatch(slot -> GUI.this.interactionPolicies.getOrDefault(slot, false));
+                event.setCancelled(!interactionAllowed);
 
-            // Trigger the GUI drag handler
-            if (GUI.this.onDragHandler != null) {
-                GUI.this.onDragHandler.accept(event);
+                // Trigger the GUI drag handler
+                if (GUI.this.onDragHandler != null) {
+                    GUI.this.onDragHandler.accept(event);
+                }
+            } finally {
+                recording.commit();
             }
         }
 
@@ -231,13 +615,26 @@ public class GUI {
                 return;
             }
 
-            // Trigger the GUI close handler
-            if (GUI.this.onCloseHandler != null) {
-                GUI.this.onCloseHandler.accept(event);
-            }
+            final InteractionEvent recording = new InteractionEvent(GUI.this.title, InteractionEvent.CLOSE, -1);
+            recording.begin();
+            try {
+                // Trigger the GUI close handler
+                if (GUI.this.onCloseHandler != null) {
+                    GUI.this.onCloseHandler.accept(event);
+                }
+            } finally {
+                // Remove the viewer and unregister this listener if it was the last one, even if the close handler failed
+                // The close event already runs on the thread of the player, so the cleanup can run inline without an executor
+                final UUID uuid = event.getPlayer().getUniqueId();
+                final GUIExecutor executor = GUI.this.executor;
+                if (executor == null) {
+                    GUI.this.removeViewer(uuid);
+                } else {
+                    executor.execute(event.getPlayer(), () -> GUI.this.removeViewer(uuid));
+                }
 
-            // Unregister this listener
-            HandlerList.unregisterAll(this);
+                recording.commit();
+            }
         }
 
         /**
@@ -2,6 +2,8 @@ package dev.pelkum.yamif.gui;
 
 import dev.pelkum.yamif.components.Component;
 import dev.pelkum.yamif.grid.SlotRange;
+import dev.pelkum.yamif.scheduling.GUIExecutor;
+import dev.pelkum.yamif.scheduling.RenderScheduler;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
@@ -30,6 +32,33 @@ public class GUIBuilder {
         this.gui = new GUI(title, rows);
     }
 
+    /**
+     * Defines the executor every scheduling point of the GUI goes through.
+     * When combined with a render scheduler, the executor has to be the one of the scheduler;
+     * the GUI then uses the executor of the scheduler anyway, so defining it is not necessary.
+     *
+     * @param executor The executor to use
+     * @return The new GUI builder state
+     */
+    public GUIBuilder withExecutor(final GUIExecutor executor) {
+        this.gui.setExecutor(executor);
+        return this;
+    }
+
+    /**
+     * Defers the rendering of all components added afterwards to the given render scheduler,
+     * which starts processing the work automatically once it gets submitted.
+     * The GUI adopts the executor of the scheduler; an executor defined using {@link #withExecutor(GUIExecutor)}
+     * before or afterwards has to be the one of the scheduler.
+     *
+     * @param renderScheduler The render scheduler to use
+     * @return The new GUI builder state
+     */
+    public GUIBuilder withRenderScheduler(final RenderScheduler renderScheduler) {
+        this.gui.setRenderScheduler(renderScheduler);
+        return this;
+    }
+
     /**
      * Fills the given slot range with copies of the given component
      *
@@ -0,0 +1,33 @@
+package dev.pelkum.yamif.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Represents the flight recorder event of a component handling a click.
+ * The threshold can be overridden using the JFR setting {@code dev.pelkum.yamif.ComponentClick#threshold}.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("dev.pelkum.yamif.ComponentClick")
+@Label("Component Click")
+@Description("A component handled a click")
+@Threshold("1 ms")
+public class ComponentClickEvent extends ComponentEvent {
+
+    /**
+     * Creates a new component click event
+     *
+     * @param title          The title of the GUI
+     * @param slot           The slot of the component
+     * @param componentClass The class of the component
+     */
+    public ComponentClickEvent(final String title, final int slot, final Class<?> componentClass) {
+        super(title, slot, componentClass);
+    }
+
+}
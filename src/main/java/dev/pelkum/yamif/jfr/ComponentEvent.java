@@ -0,0 +1,40 @@
+package dev.pelkum.yamif.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Represents the base of the flight recorder events concerning a single component
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Category("yamif")
+public abstract class ComponentEvent extends Event {
+
+    // The fields are protected as JFR ignores private fields of super classes
+    @Label("GUI Title")
+    protected final String title;
+
+    @Label("Slot")
+    protected final int slot;
+
+    @Label("Component Class")
+    protected final Class<?> componentClass;
+
+    /**
+     * Creates a new component event
+     *
+     * @param title          The title of the GUI
+     * @param slot           The slot of the component
+     * @param componentClass The class of the component
+     */
+    protected ComponentEvent(final String title, final int slot, final Class<?> componentClass) {
+        this.title = title;
+        this.slot = slot;
+        this.componentClass = componentClass;
+    }
+
+}
@@ -0,0 +1,37 @@
+package dev.pelkum.yamif.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Represents the flight recorder event of a GUI being opened to a player.
+ * The threshold can be overridden using the JFR setting {@code dev.pelkum.yamif.GUIOpen#threshold}.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("dev.pelkum.yamif.GUIOpen")
+@Label("GUI Open")
+@Description("A GUI got opened to a player")
+@Category("yamif")
+@Threshold("1 ms")
+public class GUIOpenEvent extends Event {
+
+    @Label("GUI Title")
+    private final String title;
+
+    /**
+     * Creates a new GUI open event
+     *
+     * @param title The title of the GUI
+     */
+    public GUIOpenEvent(final String title) {
+        this.title = title;
+    }
+
+}
@@ -0,0 +1,63 @@
+package dev.pelkum.yamif.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Represents the flight recorder event of a GUI dispatching a click, drag or close interaction.
+ * The threshold can be overridden using the JFR setting {@code dev.pelkum.yamif.Interaction#threshold}.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name("dev.pelkum.yamif.Interaction")
+@Label("GUI Interaction")
+@Description("A GUI dispatched a click, drag or close interaction")
+@Category("yamif")
+@Threshold("1 ms")
+public class InteractionEvent extends Event {
+
+    /**
+     * The type of a click interaction
+     */
+    public static final String CLICK = "click";
+
+    /**
+     * The type of a drag interaction
+     */
+    public static final String DRAG = "drag";
+
+    /**
+     * The type of a close interaction
+     */
+    public static final String CLOSE = "close";
+
+    @Label("GUI Title")
+    private final String title;
+
+    @Label("Interaction Type")
+    private final String type;
+
+    @Label("Slot")
+    @Description("The slot involved or -1 if the interaction is not bound to a single slot")
+    private final int slot;
+
+    /**
+     * Creates a new interaction event
+     *
+     * @param title The title of the GUI
+     * @param type  The type of the interaction
+     * @param slot  The slot involved or -1 if the interaction is not bound to a single slot
+     */
+    public InteractionEvent(final String title, final String type, final int slot) {
+        this.title = title;
+        this.type = type;
+        this.slot = slot;
+    }
+
+}
@@ -0,0 +1,63 @@
+package dev.pelkum.yamif.scheduling;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.UUID;
+
+/**
+ * Represents the executor of the classic server model running everything on a single main thread.
+ * Tasks get executed immediately if they are submitted from the main thread.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BukkitGUIExecutor implements GUIExecutor {
+
+    // Define the plugin to schedule the tasks with
+    private final Plugin plugin;
+
+    /**
+     * Creates a new Bukkit GUI executor
+     *
+     * @param plugin The plugin to schedule the tasks with
+     */
+    public BukkitGUIExecutor(final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+            return;
+        }
+
+        this.plugin.getServer().getScheduler().runTask(this.plugin, task);
+    }
+
+    @Override
+    public void execute(final Entity entity, final Runnable task) {
+        // Every entity is owned by the main thread
+        this.execute(task);
+    }
+
+    @Override
+    public void execute(final UUID owner, final Runnable task) {
+        // Every key is owned by the main thread
+        this.execute(task);
+    }
+
+    @Override
+    public ScheduledTask executeRepeating(final Runnable task, final long periodTicks) {
+        return this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, task, 0, periodTicks)::cancel;
+    }
+
+    @Override
+    public ScheduledTask executeRepeating(final UUID owner, final Runnable task, final long periodTicks) {
+        return this.executeRepeating(task, periodTicks);
+    }
+
+}
@@ -0,0 +1,61 @@
+package dev.pelkum.yamif.scheduling;
+
+import org.bukkit.entity.Entity;
+
+import java.util.UUID;
+
+/**
+ * Represents the executor every framework-internal scheduling point goes through.
+ * Implementations decide which thread a task runs on, allowing the framework to run on servers
+ * which do not use a single global main thread.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface GUIExecutor {
+
+    /**
+     * Executes a task which is not bound to a specific entity
+     *
+     * @param task The task to execute
+     */
+    void execute(Runnable task);
+
+    /**
+     * Executes a task on the thread owning the given entity
+     *
+     * @param entity The entity the task is bound to
+     * @param task   The task to execute
+     */
+    void execute(Entity entity, Runnable task);
+
+    /**
+     * Executes a task on the thread owning the given key; tasks of the same key always run serially on the same thread.
+     * Entities are owned by the key of their UUID.
+     *
+     * @param owner The key the task is bound to
+     * @param task  The task to execute
+     */
+    void execute(UUID owner, Runnable task);
+
+    /**
+     * Executes a task repeatedly, starting immediately
+     *
+     * @param task        The task to execute
+     * @param periodTicks The amount of ticks between two executions
+     * @return The scheduled task
+     */
+    ScheduledTask executeRepeating(Runnable task, long periodTicks);
+
+    /**
+     * Executes a task repeatedly on the thread owning the given key, starting immediately
+     *
+     * @param owner       The key the task is bound to
+     * @param task        The task to execute
+     * @param periodTicks The amount of ticks between two executions
+     * @return The scheduled task
+     */
+    ScheduledTask executeRepeating(UUID owner, Runnable task, long periodTicks);
+
+}
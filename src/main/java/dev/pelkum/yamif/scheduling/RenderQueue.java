@@ -0,0 +1,92 @@
+package dev.pelkum.yamif.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Represents the queue of render work of a single GUI, processed by a {@link RenderScheduler}
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RenderQueue {
+
+    // Define queue-related variables
+    private final RenderScheduler scheduler;
+    private final Queue<Runnable> work;
+    private volatile boolean visible;
+
+    // Define whether or not the queue is currently listed as visible or background work by the scheduler
+    final AtomicBoolean listedVisible;
+    final AtomicBoolean listedBackground;
+
+    /**
+     * Creates a new render queue
+     *
+     * @param scheduler The scheduler processing the queue
+     */
+    RenderQueue(final RenderScheduler scheduler) {
+        this.scheduler = scheduler;
+        this.work = new ConcurrentLinkedQueue<>();
+        this.listedVisible = new AtomicBoolean();
+        this.listedBackground = new AtomicBoolean();
+    }
+
+    /**
+     * Queues a unit of render work
+     *
+     * @param unit The work to execute
+     */
+    public void submit(final Runnable unit) {
+        this.work.add(unit);
+        this.scheduler.submitted(this);
+    }
+
+    /**
+     * Removes all queued units of render work without running them
+     */
+    public void clear() {
+        int units = 0;
+        while (this.work.poll() != null) {
+            units++;
+        }
+
+        this.scheduler.cleared(units);
+    }
+
+    /**
+     * Defines whether or not the result of the queued work is currently visible to a player; visible work gets processed first
+     *
+     * @param visible Whether or not the result of the queued work is visible
+     */
+    public void setVisible(final boolean visible) {
+        this.visible = visible;
+        if (visible && !this.work.isEmpty()) {
+            this.scheduler.list(this);
+        }
+    }
+
+    /**
+     * @return Whether or not the result of the queued work is currently visible to a player
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * @return Whether or not work is queued
+     */
+    boolean hasWork() {
+        return !this.work.isEmpty();
+    }
+
+    /**
+     * @return The next unit of work or null if the queue is empty
+     */
+    Runnable poll() {
+        return this.work.poll();
+    }
+
+}
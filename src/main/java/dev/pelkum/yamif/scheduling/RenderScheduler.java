@@ -0,0 +1,243 @@
+package dev.pelkum.yamif.scheduling;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a scheduler which spreads GUI render work across ticks using a shared per-tick time budget.
+ * Every GUI submits its work through its own {@link RenderQueue}; queues whose work is visible to a player
+ * get processed before the others, taking turns unit by unit.
+ * The scheduler runs on the thread owning its key, so the budget applies per scheduler and thread;
+ * GUIs using the scheduler get owned by the same key. On executors running different keys on different threads,
+ * these GUIs may only be viewed by players owned by the same thread, e.g. by using the UUID of a player as the key.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RenderScheduler {
+
+    // Define the logger to report failing render work with
+    private static final Logger LOGGER = Logger.getLogger(RenderScheduler.class.getName());
+
+    // Define scheduler-related variables
+    private final GUIExecutor executor;
+    private final UUID owner;
+    private final long budgetNanos;
+    private final AtomicInteger queueDepth;
+    private ScheduledTask task;
+    private boolean stopped;
+
+    // Define the render queues holding visible and background work
+    private final Queue<RenderQueue> visibleQueues;
+    private final Queue<RenderQueue> backgroundQueues;
+
+    /**
+     * Creates a new render scheduler owned by a random key
+     *
+     * @param executor The executor to run the scheduler task with
+     * @param budget   The maximum amount of time to spend on render work per tick
+     * @param unit     The time unit of the budget
+     */
+    public RenderScheduler(final GUIExecutor executor, final long budget, final TimeUnit unit) {
+        this(executor, UUID.randomUUID(), budget, unit);
+    }
+
+    /**
+     * Creates a new render scheduler
+     *
+     * @param executor The executor to run the scheduler task with
+     * @param owner    The key owning the thread the scheduler runs on
+     * @param budget   The maximum amount of time to spend on render work per tick
+     * @param unit     The time unit of the budget
+     */
+    public RenderScheduler(final GUIExecutor executor, final UUID owner, final long budget, final TimeUnit unit) {
+        // Validate the budget
+        if (budget <= 0) {
+            throw new IllegalArgumentException("budget has to be positive");
+        }
+
+        this.executor = executor;
+        this.owner = owner;
+        this.budgetNanos = unit.toNanos(budget);
+        this.queueDepth = new AtomicInteger();
+        this.visibleQueues = new ConcurrentLinkedQueue<>();
+        this.backgroundQueues = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Starts processing the queued render work every tick.
+     * This happens automatically once work gets submitted, unless the scheduler got stopped explicitly.
+     */
+    public synchronized void start() {
+        this.stopped = false;
+        this.ensureRunning();
+    }
+
+    /**
+     * Stops processing the queued render work; queued and newly submitted work is kept until the scheduler gets started again
+     */
+    public synchronized void stop() {
+        this.stopped = true;
+        if (this.task == null) {
+            return;
+        }
+
+        this.task.cancel();
+        this.task = null;
+    }
+
+    /**
+     * Schedules the scheduler task if it is not scheduled yet and the scheduler did not get stopped
+     */
+    private synchronized void ensureRunning() {
+        if (this.stopped || this.task != null) {
+            return;
+        }
+
+        this.task = this.executor.executeRepeating(this.owner, this::tick, 1);
+    }
+
+    /**
+     * @return The executor the scheduler runs with
+     */
+    public GUIExecutor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * @return The key owning the thread the scheduler runs on
+     */
+    public UUID getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Creates a new render queue processed by this scheduler
+     *
+     * @return The created render queue
+     */
+    public RenderQueue createQueue() {
+        return new RenderQueue(this);
+    }
+
+    /**
+     * @return The amount of queued render work units
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    /**
+     * Accounts for a unit of work submitted to one of the render queues of this scheduler
+     *
+     * @param queue The queue the work got submitted to
+     */
+    void submitted(final RenderQueue queue) {
+        this.queueDepth.incrementAndGet();
+        this.list(queue);
+        this.ensureRunning();
+    }
+
+    /**
+     * Accounts for units of work removed from one of the render queues of this scheduler without running them
+     *
+     * @param units The amount of removed units
+     */
+    void cleared(final int units) {
+        this.queueDepth.addAndGet(-units);
+    }
+
+    /**
+     * Lists a render queue as visible or background work, depending on its current visibility
+     *
+     * @param queue The queue to list
+     */
+    void list(final RenderQueue queue) {
+        if (queue.isVisible()) {
+            if (queue.listedVisible.compareAndSet(false, true)) {
+                this.visibleQueues.add(queue);
+            }
+        } else if (queue.listedBackground.compareAndSet(false, true)) {
+            this.backgroundQueues.add(queue);
+        }
+    }
+
+    /**
+     * Processes queued render work until the per-tick budget is exhausted
+     */
+    private void tick() {
+        final long start = System.nanoTime();
+
+        // Process the work which is currently visible to a player first
+        while (System.nanoTime() - start < this.budgetNanos) {
+            final RenderQueue queue = this.visibleQueues.poll();
+            if (queue == null) {
+                break;
+            }
+            queue.listedVisible.set(false);
+
+            // Move queues which are not visible anymore to the background work
+            if (!queue.isVisible()) {
+                this.relist(queue);
+                continue;
+            }
+
+            this.runNext(queue);
+        }
+
+        // Use the remaining budget for the background work
+        while (System.nanoTime() - start < this.budgetNanos) {
+            final RenderQueue queue = this.backgroundQueues.poll();
+            if (queue == null) {
+                break;
+            }
+            queue.listedBackground.set(false);
+
+            // Move queues which became visible to the visible work; they get processed the next tick
+            if (queue.isVisible()) {
+                this.relist(queue);
+                continue;
+            }
+
+            this.runNext(queue);
+        }
+    }
+
+    /**
+     * Runs the next unit of work of a render queue and lists the queue again if work is left
+     *
+     * @param queue The queue to run the next unit of
+     */
+    private void runNext(final RenderQueue queue) {
+        final Runnable unit = queue.poll();
+        if (unit != null) {
+            this.queueDepth.decrementAndGet();
+            try {
+                unit.run();
+            } catch (final RuntimeException exception) {
+                // Keep the shared scheduler alive if a single unit fails
+                LOGGER.log(Level.SEVERE, "A unit of render work failed", exception);
+            } finally {
+                this.relist(queue);
+            }
+        }
+    }
+
+    /**
+     * Lists a render queue again if it still holds work
+     *
+     * @param queue The queue to list again
+     */
+    private void relist(final RenderQueue queue) {
+        if (queue.hasWork()) {
+            this.list(queue);
+        }
+    }
+
+}
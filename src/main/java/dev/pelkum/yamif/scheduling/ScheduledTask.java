@@ -0,0 +1,18 @@
+package dev.pelkum.yamif.scheduling;
+
+/**
+ * Represents a task scheduled by a {@link GUIExecutor}
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ScheduledTask {
+
+    /**
+     * Cancels the task
+     */
+    void cancel();
+
+}
@@ -0,0 +1,161 @@
+package dev.pelkum.yamif.scheduling;
+
+import org.bukkit.entity.Entity;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents an in-process stand-in for region-threaded servers, mainly intended for testing.
+ * Entities and other owner keys get spread across a fixed amount of threads by their UUID, so tasks of the same key
+ * always run on the same thread while tasks of different keys may run concurrently.
+ * Tasks which are not bound to a key run on a separate global thread.
+ * Like the Bukkit scheduler, failing tasks get logged and repeating tasks keep running after a failure.
+ *
+ * @author Lukas Schulte Pelkum
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ThreadPoolGUIExecutor implements GUIExecutor {
+
+    // Define the logger to report failing tasks with
+    private static final Logger LOGGER = Logger.getLogger(ThreadPoolGUIExecutor.class.getName());
+
+    // Define the duration of a tick in milliseconds and the owner index of the global thread
+    private static final long TICK_MILLIS = 50;
+    private static final int GLOBAL_OWNER = -1;
+
+    // Define the global and key-bound executors
+    private final ScheduledExecutorService globalExecutor;
+    private final ScheduledExecutorService[] regionExecutors;
+
+    // Define the owner index of the current thread
+    private final ThreadLocal<Integer> owner;
+
+    /**
+     * Creates a new thread pool GUI executor
+     *
+     * @param threads The amount of threads to spread the keys across
+     */
+    public ThreadPoolGUIExecutor(final int threads) {
+        // Validate the amount of threads
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads has to be positive");
+        }
+
+        this.owner = new ThreadLocal<>();
+
+        // Create the global and key-bound executors
+        this.globalExecutor = this.createExecutor(GLOBAL_OWNER, "yamif-global");
+        this.regionExecutors = new ScheduledExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            this.regionExecutors[i] = this.createExecutor(i, "yamif-region-" + i);
+        }
+    }
+
+    /**
+     * Creates a single-threaded executor whose thread is tagged with the given owner index
+     *
+     * @param index The owner index of the thread
+     * @param name  The name of the thread
+     * @return The created executor
+     */
+    private ScheduledExecutorService createExecutor(final int index, final String name) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(() -> {
+            this.owner.set(index);
+            runnable.run();
+        }, name));
+    }
+
+    /**
+     * Checks whether or not the current thread is tagged with the given owner index
+     *
+     * @param index The owner index to check
+     * @return Whether or not the current thread is tagged with the given owner index
+     */
+    private boolean isOwner(final int index) {
+        final Integer current = this.owner.get();
+        return current != null && current == index;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (this.isOwner(GLOBAL_OWNER)) {
+            task.run();
+            return;
+        }
+
+        this.globalExecutor.execute(this.guard(task));
+    }
+
+    @Override
+    public void execute(final Entity entity, final Runnable task) {
+        this.execute(entity.getUniqueId(), task);
+    }
+
+    @Override
+    public void execute(final UUID owner, final Runnable task) {
+        final int index = this.indexOf(owner);
+        if (this.isOwner(index)) {
+            task.run();
+            return;
+        }
+
+        this.regionExecutors[index].execute(this.guard(task));
+    }
+
+    @Override
+    public ScheduledTask executeRepeating(final Runnable task, final long periodTicks) {
+        final ScheduledFuture<?> future = this.globalExecutor.scheduleAtFixedRate(this.guard(task), 0, periodTicks * TICK_MILLIS, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    @Override
+    public ScheduledTask executeRepeating(final UUID owner, final Runnable task, final long periodTicks) {
+        final ScheduledFuture<?> future = this.regionExecutors[this.indexOf(owner)].scheduleAtFixedRate(this.guard(task), 0, periodTicks * TICK_MILLIS, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    /**
+     * Wraps a task to log its failures instead of letting the underlying executor swallow them
+     * or cancel the task if it is a repeating one
+     *
+     * @param task The task to wrap
+     * @return The wrapped task
+     */
+    private Runnable guard(final Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.SEVERE, "A task failed on thread " + Thread.currentThread().getName(), exception);
+            }
+        };
+    }
+
+    /**
+     * Calculates the index of the thread owning the given key
+     *
+     * @param owner The key to calculate the index of
+     * @return The index of the thread owning the key
+     */
+    private int indexOf(final UUID owner) {
+        return Math.floorMod(owner.hashCode(), this.regionExecutors.length);
+    }
+
+    /**
+     * Shuts down all threads of this executor
+     */
+    public void shutdown() {
+        this.globalExecutor.shutdown();
+        for (final ScheduledExecutorService executor : this.regionExecutors) {
+            executor.shutdown();
+        }
+    }
+
+}